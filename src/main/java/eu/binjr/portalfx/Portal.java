@@ -19,6 +19,7 @@ package eu.binjr.portalfx;
 import eu.binjr.portalfx.documents.DocumentsPortal;
 import eu.binjr.portalfx.settings.SettingsPortal;
 import eu.binjr.portalfx.settings.JavaFxSettingsPortal;
+import eu.binjr.portalfx.settings.XdgSettingDecoders;
 import eu.binjr.portalfx.settings.XdgSettingsInterface;
 import eu.binjr.portalfx.settings.XdgSettingsPortal;
 import eu.binjr.portalfx.xdg.XdgPortal;
@@ -32,6 +33,8 @@ public class Portal {
         private final static SettingsPortal SETTINGS_PORTAL;
 
         static {
+            // No decoder registration is accepted past this point, whichever implementation ends up being used
+            XdgSettingDecoders.freeze();
             var p = XdgPortal.of(XdgSettingsPortal.class);
             SETTINGS_PORTAL = p.isPresent() ? p.get() : new JavaFxSettingsPortal();
         }
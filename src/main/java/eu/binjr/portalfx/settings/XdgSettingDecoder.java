@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Frederic Thevenet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.binjr.portalfx.settings;
+
+import javafx.beans.value.WritableValue;
+import org.freedesktop.dbus.types.UInt16;
+import org.freedesktop.dbus.types.UInt32;
+import org.freedesktop.dbus.types.UInt64;
+import org.freedesktop.dbus.types.Variant;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Maps the value of a single setting exposed by the org.freedesktop.portal.Settings interface
+ * onto a JavaFX property.
+ * <p>
+ * Instances are created via the typed factory methods ({@link #uint32}, {@link #rgb} or {@link #of}),
+ * which tie the type of the value handed over to the converter to the expected DBus signature.
+ * <p>
+ * Note that the target property is updated from the thread on which the setting is received, i.e. the thread
+ * that first accesses the settings portal for initial values, and the dbus-java signal dispatch thread for
+ * subsequent changes; it is <b>not</b> the JavaFX Application Thread. Properties bound to the scene graph
+ * should therefore be updated via {@link javafx.application.Platform#runLater(Runnable)}.
+ *
+ * @param <V> the type of the value as read from DBus
+ * @param <T> the type of the decoded value
+ */
+public final class XdgSettingDecoder<V, T> {
+    // Java types dbus-java maps basic DBus signatures to
+    private static final Map<String, Class<?>> BASIC_TYPES = Map.of(
+            "y", Byte.class,
+            "b", Boolean.class,
+            "n", Short.class,
+            "q", UInt16.class,
+            "i", Integer.class,
+            "u", UInt32.class,
+            "x", Long.class,
+            "t", UInt64.class,
+            "d", Double.class,
+            "s", String.class);
+
+    private final String namespace;
+    private final String key;
+    private final String signature;
+    private final Function<Object, V> reader;
+    private final Function<? super V, ? extends T> converter;
+    private final WritableValue<T> target;
+
+    private XdgSettingDecoder(String namespace,
+                              String key,
+                              String signature,
+                              Function<Object, V> reader,
+                              Function<? super V, ? extends T> converter,
+                              WritableValue<T> target) {
+        this.namespace = Objects.requireNonNull(namespace, "namespace cannot be null");
+        this.key = Objects.requireNonNull(key, "key cannot be null");
+        this.signature = Objects.requireNonNull(signature, "signature cannot be null");
+        this.reader = reader;
+        this.converter = Objects.requireNonNull(converter, "converter cannot be null");
+        this.target = Objects.requireNonNull(target, "target cannot be null");
+    }
+
+    /**
+     * Creates a decoder for a setting whose value is of a basic DBus type (i.e. {@code y}, {@code b}, {@code n},
+     * {@code q}, {@code i}, {@code u}, {@code x}, {@code t}, {@code d} or {@code s}).
+     *
+     * @param namespace the namespace of the setting (e.g. {@code org.freedesktop.appearance})
+     * @param key       the key of the setting within its namespace (e.g. {@code color-scheme})
+     * @param signature the DBus signature of the setting's value (e.g. {@code s})
+     * @param valueType the Java type dbus-java maps the signature to (e.g. {@code String.class})
+     * @param converter a function that converts the value of the setting into the target's type
+     * @param target    the property updated with the decoded value
+     * @param <V>       the type of the value as read from DBus
+     * @param <T>       the type of the decoded value
+     * @return a new decoder
+     * @throws IllegalArgumentException if the signature is not a basic DBus type or does not map to {@code valueType}
+     */
+    public static <V, T> XdgSettingDecoder<V, T> of(String namespace,
+                                                    String key,
+                                                    String signature,
+                                                    Class<V> valueType,
+                                                    Function<? super V, ? extends T> converter,
+                                                    WritableValue<T> target) {
+        Objects.requireNonNull(valueType, "valueType cannot be null");
+        var expectedType = BASIC_TYPES.get(signature);
+        if (expectedType == null) {
+            throw new IllegalArgumentException("Unsupported DBus signature: " + signature);
+        }
+        if (!expectedType.equals(valueType)) {
+            throw new IllegalArgumentException("DBus signature " + signature + " maps to " +
+                    expectedType.getName() + ", not " + valueType.getName());
+        }
+        return new XdgSettingDecoder<>(namespace, key, signature,
+                value -> valueType.isInstance(value) ? valueType.cast(value) : null,
+                converter,
+                target);
+    }
+
+    /**
+     * Creates a decoder for a setting whose value is an unsigned 32 bits integer (DBus signature {@code u}).
+     *
+     * @param namespace the namespace of the setting
+     * @param key       the key of the setting within its namespace
+     * @param converter a function that converts the value of the setting into the target's type
+     * @param target    the property updated with the decoded value
+     * @param <T>       the type of the decoded value
+     * @return a new decoder
+     */
+    public static <T> XdgSettingDecoder<UInt32, T> uint32(String namespace,
+                                                          String key,
+                                                          Function<? super UInt32, ? extends T> converter,
+                                                          WritableValue<T> target) {
+        return of(namespace, key, "u", UInt32.class, converter, target);
+    }
+
+    /**
+     * Creates a decoder for a setting whose value is a tuple of three doubles (DBus signature {@code (ddd)}),
+     * such as an RGB color.
+     *
+     * @param namespace the namespace of the setting
+     * @param key       the key of the setting within its namespace
+     * @param converter a function that converts the three components of the setting into the target's type
+     * @param target    the property updated with the decoded value
+     * @param <T>       the type of the decoded value
+     * @return a new decoder
+     */
+    public static <T> XdgSettingDecoder<double[], T> rgb(String namespace,
+                                                         String key,
+                                                         Function<? super double[], ? extends T> converter,
+                                                         WritableValue<T> target) {
+        return new XdgSettingDecoder<>(namespace, key, "(ddd)", XdgSettingDecoder::readTriple, converter, target);
+    }
+
+    private static double[] readTriple(Object value) {
+        if (value instanceof Object[] components && components.length == 3 &&
+                components[0] instanceof Number c0 &&
+                components[1] instanceof Number c1 &&
+                components[2] instanceof Number c2) {
+            return new double[]{c0.doubleValue(), c1.doubleValue(), c2.doubleValue()};
+        }
+        return null;
+    }
+
+    /**
+     * Decodes the provided value and updates the target property, provided that the value's
+     * signature matches the expected one.
+     *
+     * @param value the value of the setting, as received over DBus
+     * @return {@code true} if the value was decoded, {@code false} otherwise
+     */
+    public boolean decode(Variant<?> value) {
+        if (!signature.equals(value.getSig())) {
+            return false;
+        }
+        V v = reader.apply(value.getValue());
+        if (v == null) {
+            return false;
+        }
+        target.setValue(converter.apply(v));
+        return true;
+    }
+
+    /**
+     * Returns the namespace of the setting.
+     *
+     * @return the namespace of the setting
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Returns the key of the setting within its namespace.
+     *
+     * @return the key of the setting within its namespace
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the expected DBus signature of the setting's value.
+     *
+     * @return the expected DBus signature of the setting's value
+     */
+    public String getSignature() {
+        return signature;
+    }
+}
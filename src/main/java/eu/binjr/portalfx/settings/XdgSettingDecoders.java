@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Frederic Thevenet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.binjr.portalfx.settings;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A registry of {@link XdgSettingDecoder} instances, which allows applications to map additional
+ * settings exposed by the org.freedesktop.portal.Settings interface onto their own JavaFX properties.
+ * <p>
+ * Decoders must be registered before the settings portal is first accessed (i.e. before the first call
+ * to {@link eu.binjr.portalfx.Portal#settings()}), at which point the registry is frozen and no longer
+ * accepts new entries. Registered decoders are then compiled into an immutable dispatch table.
+ * <p>
+ * Registered decoders are ignored if the XDG Desktop portal is not available at runtime and the
+ * default JavaFX implementation is used instead, as well as for settings already handled by the portal
+ * itself (e.g. {@code org.freedesktop.appearance::color-scheme}).
+ * <p>
+ * Target properties are not updated on the JavaFX Application Thread; see {@link XdgSettingDecoder}.
+ */
+public final class XdgSettingDecoders {
+    private static final Logger logger = LoggerFactory.getLogger(XdgSettingDecoders.class);
+    private static final List<XdgSettingDecoder<?, ?>> registeredDecoders = new ArrayList<>();
+    private static boolean frozen = false;
+
+    private XdgSettingDecoders() {
+    }
+
+    /**
+     * Registers a new decoder for a setting exposed by the org.freedesktop.portal.Settings interface.
+     * <p>
+     * Note that the target property is updated on the dbus-java signal dispatch thread, not on the
+     * JavaFX Application Thread.
+     *
+     * @param decoder the decoder to register
+     * @throws IllegalStateException    if the registry is frozen
+     * @throws IllegalArgumentException if a decoder is already registered for the same namespace and key
+     */
+    public static synchronized void register(XdgSettingDecoder<?, ?> decoder) {
+        if (frozen) {
+            throw new IllegalStateException("Cannot register decoder for " + decoder.getNamespace() + "::" +
+                    decoder.getKey() + ": settings decoders are frozen");
+        }
+        for (var d : registeredDecoders) {
+            if (d.getNamespace().equals(decoder.getNamespace()) && d.getKey().equals(decoder.getKey())) {
+                throw new IllegalArgumentException("A decoder is already registered for " +
+                        decoder.getNamespace() + "::" + decoder.getKey());
+            }
+        }
+        registeredDecoders.add(decoder);
+    }
+
+    /**
+     * Returns {@code true} if the registry is frozen and no longer accepts new entries,
+     * {@code false} otherwise.
+     *
+     * @return {@code true} if the registry is frozen, {@code false} otherwise
+     */
+    public static synchronized boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Freezes the registry, after which it no longer accepts new entries.
+     */
+    public static synchronized void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Returns all registered decoders.
+     *
+     * @return an immutable list of all registered decoders
+     */
+    static synchronized List<XdgSettingDecoder<?, ?>> getRegisteredDecoders() {
+        return List.copyOf(registeredDecoders);
+    }
+
+    /**
+     * Clears all registered decoders and unfreezes the registry.
+     * Only meant to be used by tests.
+     */
+    static synchronized void reset() {
+        registeredDecoders.clear();
+        frozen = false;
+    }
+
+    /**
+     * Compiles the provided decoders into an immutable dispatch table, indexed by namespace then by key.
+     * Built-in decoders take precedence over registered ones for the same namespace and key.
+     *
+     * @param builtInDecoders    the decoders provided by the portal implementation
+     * @param registeredDecoders the decoders registered by applications
+     * @return an immutable dispatch table, indexed by namespace then by key
+     */
+    static Map<String, Map<String, XdgSettingDecoder<?, ?>>> compile(List<XdgSettingDecoder<?, ?>> builtInDecoders,
+                                                                     List<XdgSettingDecoder<?, ?>> registeredDecoders) {
+        var table = new HashMap<String, Map<String, XdgSettingDecoder<?, ?>>>();
+        for (var d : builtInDecoders) {
+            table.computeIfAbsent(d.getNamespace(), ns -> new HashMap<>()).put(d.getKey(), d);
+        }
+        for (var d : registeredDecoders) {
+            if (table.computeIfAbsent(d.getNamespace(), ns -> new HashMap<>()).putIfAbsent(d.getKey(), d) != null) {
+                logger.warn("Ignoring registered decoder for " + d.getNamespace() + "::" + d.getKey() +
+                        ": setting is already handled by a built-in decoder");
+            }
+        }
+        var frozenTable = new HashMap<String, Map<String, XdgSettingDecoder<?, ?>>>();
+        table.forEach((ns, decoders) -> frozenTable.put(ns, Map.copyOf(decoders)));
+        return Map.copyOf(frozenTable);
+    }
+}
@@ -24,24 +24,28 @@ import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.scene.paint.Color;
 import org.freedesktop.dbus.exceptions.DBusException;
-import org.freedesktop.dbus.types.UInt32;
 import org.freedesktop.dbus.types.Variant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.function.BiConsumer;
+import java.util.List;
+import java.util.Map;
 
 /**
  * A PlatformPreferences implementation that uses the XDG Desktop portal via DBus to provide
  * the current system-wide appearance settings on Linux.
  * It automatically falls back to the default JavaFX implementation if the interface is not
  * available at runtime.
+ * <p>
+ * Instances must be obtained via {@link XdgPortal#of(Class)} or {@link eu.binjr.portalfx.Portal#settings()}.
  */
 public class XdgSettingsPortal extends XdgPortal<XdgSettingsInterface> implements SettingsPortal {
 
     private static final Logger logger = LoggerFactory.getLogger(XdgSettingsPortal.class);
     private static final ColorScheme DEFAULT_COLOR_SCHEME = ColorScheme.LIGHT;
 
+    private static final Color DEFAULT_ACCENT_COLOR = Color.SLATEBLUE;
+
     private static final String FREEDESKTOP_APPEARANCE = "org.freedesktop.appearance";
     static private final String COLOR_SCHEME = "color-scheme";
     static private final String CONTRAST = "contrast";
@@ -50,65 +54,125 @@ public class XdgSettingsPortal extends XdgPortal<XdgSettingsInterface> implement
 
 
     private final ReadOnlyObjectWrapper<ColorScheme> colorSchemeWrapper = new ReadOnlyObjectWrapper<>(DEFAULT_COLOR_SCHEME);
-    private final ReadOnlyObjectWrapper<Color> accentColorWrapper = new ReadOnlyObjectWrapper<>(Color.SLATEBLUE);
+    private final ReadOnlyObjectWrapper<Color> accentColorWrapper = new ReadOnlyObjectWrapper<>(DEFAULT_ACCENT_COLOR);
     private final ReadOnlyBooleanWrapper highContrastWrapper = new ReadOnlyBooleanWrapper(false);
     private final ReadOnlyBooleanWrapper reducedMotionWrapper = new ReadOnlyBooleanWrapper(false);
     private final ReadOnlyObjectProperty<ColorScheme> colorSchemeProperty = colorSchemeWrapper.getReadOnlyProperty();
     private final ReadOnlyObjectProperty<Color> accentColorProperty = accentColorWrapper.getReadOnlyProperty();
     private final ReadOnlyBooleanProperty reducedMotionProperty = reducedMotionWrapper.getReadOnlyProperty();
     private final ReadOnlyBooleanProperty highContrastProperty = highContrastWrapper.getReadOnlyProperty();
+    private final Map<String, Map<String, XdgSettingDecoder<?, ?>>> decoders;
 
 
-    public XdgSettingsPortal() throws DBusException {
+    XdgSettingsPortal() throws DBusException {
         super(XdgSettingsInterface.class);
         // Define mappings between DBus interface and JavaFX properties
-        BiConsumer<String, Variant<?>> settingsMapper = (name, setting) -> {
-            switch (name) {
-                case COLOR_SCHEME -> {
-                    if (setting.getValue() instanceof UInt32 colorScheme) {
-                        colorSchemeWrapper.set(switch (colorScheme.intValue()) {
+        decoders = XdgSettingDecoders.compile(List.of(
+                XdgSettingDecoder.uint32(FREEDESKTOP_APPEARANCE, COLOR_SCHEME,
+                        value -> switch (value.intValue()) {
                             // 1: Prefer dark appearance
                             case 1 -> ColorScheme.DARK;
                             // 2: Prefer light appearance
                             case 2 -> ColorScheme.LIGHT;
                             // Unknown values should be treated as 0 (no preference).
                             default -> DEFAULT_COLOR_SCHEME;
-                        });
-                    }
-                }
-                case ACCENT_COLOR -> {
-                    if (setting.getValue() instanceof Double[] color) {
-                        accentColorWrapper.set(Color.color(color[0], color[1], color[2]));
-                    }
-                }
-                case REDUCED_MOTION -> {
-                    if (setting.getValue() instanceof UInt32 contrast) {
+                        },
+                        colorSchemeWrapper),
+                XdgSettingDecoder.rgb(FREEDESKTOP_APPEARANCE, ACCENT_COLOR,
+                        rgb -> toAccentColor(rgb, accentColorWrapper.get()),
+                        accentColorWrapper),
+                XdgSettingDecoder.uint32(FREEDESKTOP_APPEARANCE, REDUCED_MOTION,
                         // 1: Reduced motion
-                        reducedMotionWrapper.set(contrast.intValue() == 1);
-                    }
-                }
-                case CONTRAST -> {
-                    if (setting.getValue() instanceof UInt32 contrast) {
+                        value -> value.intValue() == 1,
+                        reducedMotionWrapper),
+                XdgSettingDecoder.uint32(FREEDESKTOP_APPEARANCE, CONTRAST,
                         // 1: Higher contrast
-                        highContrastWrapper.set(contrast.intValue() == 1);
-                    }
-                }
-            }
-        };
+                        value -> value.intValue() == 1,
+                        highContrastWrapper)),
+                XdgSettingDecoders.getRegisteredDecoders());
+    }
 
+    @Override
+    protected void initialize() throws DBusException {
         // Read current values for settings exposed by the interface
-        var appearance = this.getPortalObject().ReadAll(new String[]{FREEDESKTOP_APPEARANCE}).get(FREEDESKTOP_APPEARANCE);
-        if (appearance != null) {
-            appearance.forEach(settingsMapper);
-        }
+        readAll(this.getPortalObject(), decoders);
 
         // Install signal handler to listen to org.freedesktop.portal.Settings::SettingChanged
         this.addSignalHandler(XdgSettingsInterface.SettingChanged.class,
-                signal -> {
-                    if (signal.getNamespace().equals(FREEDESKTOP_APPEARANCE)) {
-                        settingsMapper.accept(signal.getKey(), signal.getValue());
-                    }
-                });
+                signal -> decode(decoders, signal.getNamespace(), signal.getKey(), signal.getValue()));
+    }
+
+    /**
+     * Reads the current values of all settings in the namespaces covered by the provided decoders.
+     *
+     * @param portalObject the remote settings interface
+     * @param decoders     the dispatch table of decoders, indexed by namespace then by key
+     */
+    static void readAll(XdgSettingsInterface portalObject, Map<String, Map<String, XdgSettingDecoder<?, ?>>> decoders) {
+        var settings = portalObject.ReadAll(decoders.keySet().toArray(String[]::new));
+        if (settings != null) {
+            settings.forEach((namespace, values) ->
+                    values.forEach((key, value) -> decode(decoders, namespace, key, value)));
+        }
+    }
+
+    /**
+     * Decodes the value of a setting using the matching decoder, if any.
+     *
+     * @param decoders  the dispatch table of decoders, indexed by namespace then by key
+     * @param namespace the namespace of the setting
+     * @param key       the key of the setting within its namespace
+     * @param value     the value of the setting, as received over DBus
+     * @return {@code true} if the value was decoded, {@code false} otherwise
+     */
+    static boolean decode(Map<String, Map<String, XdgSettingDecoder<?, ?>>> decoders,
+                          String namespace,
+                          String key,
+                          Variant<?> value) {
+        var namespaceDecoders = decoders.get(namespace);
+        if (namespaceDecoders == null) {
+            return false;
+        }
+        var decoder = namespaceDecoders.get(key);
+        if (decoder == null) {
+            return false;
+        }
+        try {
+            if (decoder.decode(value)) {
+                return true;
+            }
+            logger.debug("Ignoring value for setting " + namespace + "::" + key +
+                    ": unexpected value (found=" + value.getSig() + ", expected=" + decoder.getSignature() + ")");
+        } catch (RuntimeException e) {
+            logger.warn("Failed to decode setting " + namespace + "::" + key + ": " + e.getMessage());
+            logger.debug("Stack trace", e);
+        }
+        return false;
+    }
+
+    /**
+     * Converts the RGB components of the accent color setting into a {@link Color} instance.
+     *
+     * @param rgb     the red, green and blue components of the color
+     * @param current the current accent color, returned as is if the components are unchanged
+     * @return the accent color, or the default one if the components are out of range (i.e. the accent color is unset)
+     */
+    static Color toAccentColor(double[] rgb, Color current) {
+        for (double c : rgb) {
+            // Out of range values means the accent color is unset
+            if (!(c >= 0.0 && c <= 1.0)) {
+                return DEFAULT_ACCENT_COLOR;
+            }
+        }
+        // Color components are stored as floats, so compare them as such
+        if (current != null &&
+                (float) rgb[0] == (float) current.getRed() &&
+                (float) rgb[1] == (float) current.getGreen() &&
+                (float) rgb[2] == (float) current.getBlue() &&
+                current.getOpacity() == 1.0) {
+            return current;
+        }
+        return Color.color(rgb[0], rgb[1], rgb[2]);
     }
 
     @Override
@@ -54,6 +54,16 @@ public abstract class XdgPortal<T extends XdgPortalInterface> {
         sessionConnection.addSigHandler(signalType, portalObject, signalHandler);
     }
 
+    /**
+     * Called once the portal has been deemed usable, i.e. after the interface's version has been checked.
+     * Implementations should read initial values and install signal handlers here rather than in their constructor,
+     * so that instances that end up being discarded do not remain active.
+     *
+     * @throws DBusException if an error occurs while communicating with the portal
+     */
+    protected void initialize() throws DBusException {
+    }
+
     public int getVersion() {
         return portalObject.getVersion().intValue();
     }
@@ -61,8 +71,12 @@ public abstract class XdgPortal<T extends XdgPortalInterface> {
     public static <T extends XdgPortal<?>> Optional<T> of(Class<T> portalClass) {
         if (System.getProperty("os.name").toLowerCase(Locale.ROOT).startsWith("linux")) {
             try {
-                var portal = portalClass.getDeclaredConstructor().newInstance();
+                var constructor = portalClass.getDeclaredConstructor();
+                // Portal constructors are not public, so that instances are only created here
+                constructor.setAccessible(true);
+                var portal = constructor.newInstance();
                 if (portal.getVersion() >= MIN_VERSION) {
+                    portal.initialize();
                     return Optional.of(portal);
                 } else {
                     logger.warn("dBus interface found but version is not supported (found=" +
@@ -72,6 +86,9 @@ public abstract class XdgPortal<T extends XdgPortalInterface> {
                 logger.warn("Failed to establish connection to bus name " + DESKTOP_PORTAL_BUS_NAME +
                         ", interface " + portalClass.getName() + ": " + dBex.getMessage());
                 logger.debug("Stack trace", dBex);
+            } catch (DBusException dBex) {
+                logger.warn("Failed to initialize portal " + portalClass.getName() + ": " + dBex.getMessage());
+                logger.debug("Stack trace", dBex);
             } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
                      NoSuchMethodException e) {
                 logger.error("Failed to create new instance of " + portalClass.getName() + ": " + e.getMessage());
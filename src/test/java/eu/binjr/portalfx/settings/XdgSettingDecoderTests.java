@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Frederic Thevenet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.binjr.portalfx.settings;
+
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.paint.Color;
+import org.freedesktop.dbus.types.UInt32;
+import org.freedesktop.dbus.types.Variant;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class XdgSettingDecoderTests {
+    private static final String NAMESPACE = "org.example.test";
+
+    @Test
+    void uint32() {
+        var target = new SimpleBooleanProperty(false);
+        var decoder = XdgSettingDecoder.uint32(NAMESPACE, "flag", value -> value.intValue() == 1, target);
+        assertTrue(decoder.decode(new Variant<>(new UInt32(1))));
+        assertTrue(target.get());
+    }
+
+    @Test
+    void signatureMismatchIsIgnored() {
+        var target = new SimpleBooleanProperty(false);
+        var decoder = XdgSettingDecoder.uint32(NAMESPACE, "flag", value -> value.intValue() == 1, target);
+        assertFalse(decoder.decode(new Variant<>("1")));
+        assertFalse(target.get());
+    }
+
+    @Test
+    void rgb() {
+        var target = new SimpleObjectProperty<Color>();
+        var decoder = XdgSettingDecoder.rgb(NAMESPACE, "color", rgb -> Color.color(rgb[0], rgb[1], rgb[2]), target);
+        assertTrue(decoder.decode(new Variant<>(new Object[]{0.2, 0.4, 0.6}, "(ddd)")));
+        assertEquals(Color.color(0.2, 0.4, 0.6), target.get());
+    }
+
+    @Test
+    void basicType() {
+        var target = new SimpleObjectProperty<String>();
+        var decoder = XdgSettingDecoder.of(NAMESPACE, "name", "s", String.class, value -> value, target);
+        assertTrue(decoder.decode(new Variant<>("value")));
+        assertEquals("value", target.get());
+    }
+
+    @Test
+    void mismatchedValueTypeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                XdgSettingDecoder.of(NAMESPACE, "flag", "u", Integer.class, value -> value, new SimpleObjectProperty<>()));
+    }
+
+    @Test
+    void unsupportedSignatureIsRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                XdgSettingDecoder.of(NAMESPACE, "flag", "as", Object.class, value -> value, new SimpleObjectProperty<>()));
+    }
+}
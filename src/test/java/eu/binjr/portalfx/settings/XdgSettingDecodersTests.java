@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Frederic Thevenet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.binjr.portalfx.settings;
+
+import javafx.beans.property.SimpleBooleanProperty;
+import org.freedesktop.dbus.types.UInt32;
+import org.freedesktop.dbus.types.Variant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class XdgSettingDecodersTests {
+    private static final String NAMESPACE = "org.example.test";
+
+    @BeforeEach
+    @AfterEach
+    void reset() {
+        XdgSettingDecoders.reset();
+    }
+
+    @Test
+    void duplicateRegistrationIsRejected() {
+        XdgSettingDecoders.register(flagDecoder());
+        assertThrows(IllegalArgumentException.class, () -> XdgSettingDecoders.register(flagDecoder()));
+    }
+
+    @Test
+    void registrationAfterFreezeIsRejected() {
+        XdgSettingDecoders.freeze();
+        assertTrue(XdgSettingDecoders.isFrozen());
+        assertThrows(IllegalStateException.class, () -> XdgSettingDecoders.register(flagDecoder()));
+    }
+
+    @Test
+    void builtInDecoderTakesPrecedence() {
+        var builtInTarget = new SimpleBooleanProperty(false);
+        var registeredTarget = new SimpleBooleanProperty(false);
+        var table = XdgSettingDecoders.compile(
+                List.of(XdgSettingDecoder.uint32(NAMESPACE, "flag", value -> value.intValue() == 1, builtInTarget)),
+                List.of(XdgSettingDecoder.uint32(NAMESPACE, "flag", value -> value.intValue() == 1, registeredTarget)));
+        assertTrue(table.get(NAMESPACE).get("flag").decode(new Variant<>(new UInt32(1))));
+        assertTrue(builtInTarget.get());
+        assertFalse(registeredTarget.get());
+    }
+
+    private static XdgSettingDecoder<Boolean, Boolean> flagDecoder() {
+        return XdgSettingDecoder.of(NAMESPACE, "flag", "b", Boolean.class, value -> value, new SimpleBooleanProperty());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Frederic Thevenet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.binjr.portalfx.settings;
+
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.paint.Color;
+import org.freedesktop.dbus.types.UInt32;
+import org.freedesktop.dbus.types.Variant;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class XdgSettingsPortalTests {
+    private static final String NAMESPACE = "org.example.test";
+    private static final String OTHER_NAMESPACE = "org.example.other";
+
+    @Test
+    void outOfRangeAccentColor() {
+        var current = Color.color(0.2, 0.4, 0.6);
+        var color = assertDoesNotThrow(() -> XdgSettingsPortal.toAccentColor(new double[]{-1.0, -1.0, -1.0}, current));
+        assertEquals(Color.SLATEBLUE, color);
+    }
+
+    @Test
+    void repeatedAccentColorKeepsInstance() {
+        var target = new SimpleObjectProperty<Color>();
+        var decoder = XdgSettingDecoder.rgb(NAMESPACE, "accent-color",
+                rgb -> XdgSettingsPortal.toAccentColor(rgb, target.get()), target);
+        decoder.decode(new Variant<>(new Object[]{0.2, 0.4, 0.6}, "(ddd)"));
+        var first = target.get();
+        decoder.decode(new Variant<>(new Object[]{0.2, 0.4, 0.6}, "(ddd)"));
+        assertSame(first, target.get());
+    }
+
+    @Test
+    void throwingConverterIsIsolated() {
+        var target = new SimpleBooleanProperty(false);
+        var decoders = XdgSettingDecoders.compile(List.of(), List.of(
+                XdgSettingDecoder.uint32(NAMESPACE, "broken", value -> {
+                    throw new IllegalStateException("broken converter");
+                }, new SimpleObjectProperty<>()),
+                XdgSettingDecoder.uint32(NAMESPACE, "flag", value -> value.intValue() == 1, target)));
+        assertFalse(assertDoesNotThrow(() ->
+                XdgSettingsPortal.decode(decoders, NAMESPACE, "broken", new Variant<>(new UInt32(1)))));
+        assertTrue(XdgSettingsPortal.decode(decoders, NAMESPACE, "flag", new Variant<>(new UInt32(1))));
+        assertTrue(target.get());
+    }
+
+    @Test
+    void signatureMismatchIsSkipped() {
+        var target = new SimpleBooleanProperty(false);
+        var decoders = XdgSettingDecoders.compile(List.of(), List.of(
+                XdgSettingDecoder.uint32(NAMESPACE, "flag", value -> value.intValue() == 1, target)));
+        assertFalse(XdgSettingsPortal.decode(decoders, NAMESPACE, "flag", new Variant<>("1")));
+        assertFalse(target.get());
+    }
+
+    @Test
+    void readAllCoversAllNamespaces() {
+        var target = new SimpleBooleanProperty(false);
+        var otherTarget = new SimpleBooleanProperty(false);
+        var decoders = XdgSettingDecoders.compile(
+                List.of(XdgSettingDecoder.uint32(NAMESPACE, "flag", value -> value.intValue() == 1, target)),
+                List.of(XdgSettingDecoder.uint32(OTHER_NAMESPACE, "flag", value -> value.intValue() == 1, otherTarget)));
+        var requestedNamespaces = new ArrayList<String>();
+        var portalObject = (XdgSettingsInterface) Proxy.newProxyInstance(
+                XdgSettingsInterface.class.getClassLoader(),
+                new Class<?>[]{XdgSettingsInterface.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("ReadAll")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    requestedNamespaces.addAll(List.of((String[]) args[0]));
+                    return Map.of(
+                            NAMESPACE, Map.of("flag", new Variant<>(new UInt32(1))),
+                            OTHER_NAMESPACE, Map.of("flag", new Variant<>(new UInt32(1))));
+                });
+        XdgSettingsPortal.readAll(portalObject, decoders);
+        assertEquals(2, requestedNamespaces.size());
+        assertTrue(requestedNamespaces.containsAll(List.of(NAMESPACE, OTHER_NAMESPACE)));
+        assertTrue(target.get());
+        assertTrue(otherTarget.get());
+    }
+}